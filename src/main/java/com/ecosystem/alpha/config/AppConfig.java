@@ -1,5 +1,6 @@
 package com.ecosystem.alpha.config;
 
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
 /**
@@ -7,5 +8,6 @@ import org.springframework.context.annotation.Configuration;
  * Additional configuration beans (e.g. ModelMapper, RestTemplate) should be declared here.
  */
 @Configuration
+@EnableConfigurationProperties(IdempotencyProperties.class)
 public class AppConfig {
 }
@@ -0,0 +1,33 @@
+package com.ecosystem.alpha.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * Settings for the {@code Idempotency-Key} response store.
+ *
+ * @param maxEntries      upper bound on stored responses; the oldest entries are evicted first
+ * @param ttl             how long a completed response is replayed for the same key
+ * @param inFlightTimeout how long a concurrent duplicate waits for the original request to finish
+ */
+@ConfigurationProperties(prefix = "alpha.idempotency")
+public record IdempotencyProperties(
+        @DefaultValue("10000") int maxEntries,
+        @DefaultValue("24h") Duration ttl,
+        @DefaultValue("10s") Duration inFlightTimeout) {
+
+    public IdempotencyProperties {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("alpha.idempotency.max-entries must be positive: " + maxEntries);
+        }
+        if (ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("alpha.idempotency.ttl must be positive: " + ttl);
+        }
+        if (inFlightTimeout == null || inFlightTimeout.isNegative() || inFlightTimeout.isZero()) {
+            throw new IllegalArgumentException(
+                    "alpha.idempotency.in-flight-timeout must be positive: " + inFlightTimeout);
+        }
+    }
+}
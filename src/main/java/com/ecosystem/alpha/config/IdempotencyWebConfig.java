@@ -0,0 +1,28 @@
+package com.ecosystem.alpha.config;
+
+import com.ecosystem.alpha.idempotency.IdempotencyStore;
+import com.ecosystem.alpha.idempotency.IdempotentRequestArgumentResolver;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers the {@code IdempotentRequest} argument resolver so controllers can opt into
+ * {@code Idempotency-Key} handling by declaring the argument.
+ */
+@Configuration
+public class IdempotencyWebConfig implements WebMvcConfigurer {
+
+    private final IdempotencyStore idempotencyStore;
+
+    public IdempotencyWebConfig(IdempotencyStore idempotencyStore) {
+        this.idempotencyStore = idempotencyStore;
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new IdempotentRequestArgumentResolver(idempotencyStore));
+    }
+}
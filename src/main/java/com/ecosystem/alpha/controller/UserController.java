@@ -1,5 +1,7 @@
 package com.ecosystem.alpha.controller;
 
+import com.ecosystem.alpha.exception.ErrorResponses;
+import com.ecosystem.alpha.idempotency.IdempotentRequest;
 import com.ecosystem.alpha.service.UserService;
 import com.ecosystem.common.dto.ApiResponse;
 import com.ecosystem.common.dto.UserDto;
@@ -34,24 +36,26 @@ public class UserController {
 
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<UserDto>> findById(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.ok(userService.findById(id)));
+        return ErrorResponses.fromResult(userService.lookup(id), user -> ResponseEntity.ok(ApiResponse.ok(user)));
     }
 
     @PostMapping
-    public ResponseEntity<ApiResponse<UserDto>> create(@Valid @RequestBody UserDto dto) {
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.ok(userService.create(dto)));
+    public ResponseEntity<ApiResponse<UserDto>> create(IdempotentRequest idempotentRequest,
+                                                        @Valid @RequestBody UserDto dto) {
+        return idempotentRequest.execute(dto, () -> ErrorResponses.fromResult(userService.tryCreate(dto),
+                user -> ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(user))));
     }
 
     @PutMapping("/{id}")
-    public ResponseEntity<ApiResponse<UserDto>> update(@PathVariable Long id,
+    public ResponseEntity<ApiResponse<UserDto>> update(IdempotentRequest idempotentRequest,
+                                                        @PathVariable Long id,
                                                         @Valid @RequestBody UserDto dto) {
-        return ResponseEntity.ok(ApiResponse.ok(userService.update(id, dto)));
+        return idempotentRequest.execute(dto, () -> ErrorResponses.fromResult(userService.tryUpdate(id, dto),
+                user -> ResponseEntity.ok(ApiResponse.ok(user))));
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        userService.delete(id);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<ApiResponse<Void>> delete(@PathVariable Long id) {
+        return ErrorResponses.fromResult(userService.tryDelete(id), deleted -> ResponseEntity.noContent().build());
     }
 }
@@ -0,0 +1,43 @@
+package com.ecosystem.alpha.exception;
+
+import com.ecosystem.alpha.service.UserResult;
+import com.ecosystem.common.dto.ApiResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.function.Function;
+
+/**
+ * Single place where error statuses and {@link ApiResponse} error payloads are built, shared by
+ * {@link GlobalExceptionHandler} for thrown exceptions and by controllers for {@link UserResult} failures.
+ */
+public final class ErrorResponses {
+
+    private ErrorResponses() {
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> of(HttpStatus status, String message) {
+        return ResponseEntity.status(status).body(ApiResponse.error(message));
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> notFound(String message) {
+        return of(HttpStatus.NOT_FOUND, message);
+    }
+
+    public static <T> ResponseEntity<ApiResponse<T>> conflict(String message) {
+        return of(HttpStatus.CONFLICT, message);
+    }
+
+    /**
+     * Applies {@code onSuccess} to a successful result and maps expected failures to the same responses
+     * the handler produces for {@code NotFoundException} and {@code ConflictException}.
+     */
+    public static <T, R> ResponseEntity<ApiResponse<R>> fromResult(
+            UserResult<T> result, Function<T, ResponseEntity<ApiResponse<R>>> onSuccess) {
+        return switch (result) {
+            case UserResult.Success<T> success -> onSuccess.apply(success.value());
+            case UserResult.NotFound<T> notFound -> notFound(notFound.message());
+            case UserResult.Conflict<T> conflict -> conflict(conflict.message());
+        };
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecosystem.alpha.exception;
+
+import com.ecosystem.common.exception.ConflictException;
+
+/**
+ * {@link ConflictException} for a duplicate username or email. This is an expected outcome mapped to a 409
+ * by {@link GlobalExceptionHandler}, so the stack trace is not captured.
+ */
+public class UserConflictException extends ConflictException {
+
+    public UserConflictException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,19 @@
+package com.ecosystem.alpha.exception;
+
+import com.ecosystem.common.exception.NotFoundException;
+
+/**
+ * {@link NotFoundException} for an unknown user id. This is an expected outcome mapped to a 404 by
+ * {@link GlobalExceptionHandler}, so the stack trace is not captured.
+ */
+public class UserNotFoundException extends NotFoundException {
+
+    public UserNotFoundException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,189 @@
+package com.ecosystem.alpha.idempotency;
+
+import com.ecosystem.alpha.config.IdempotencyProperties;
+import com.ecosystem.common.exception.ConflictException;
+import com.ecosystem.common.exception.ValidationException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, TTL-evicted store of responses keyed by the client-supplied {@code Idempotency-Key} header.
+ * The first request for a key executes; replays within the TTL receive the stored response, and
+ * concurrent duplicates wait for the in-flight original instead of executing a second time.
+ * Failed executions are not stored, so the client may retry them with the same key.
+ */
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Slot> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedSlots = new AtomicInteger();
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final long inFlightTimeoutNanos;
+    private final LongSupplier nanoClock;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    IdempotencyStore(IdempotencyProperties properties, LongSupplier nanoClock) {
+        this.maxEntries = properties.maxEntries();
+        this.ttlNanos = properties.ttl().toNanos();
+        this.inFlightTimeoutNanos = properties.inFlightTimeout().toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Executes {@code action} at most once per {@code scope} and key within the TTL.
+     *
+     * @param scope          request method and path the key is bound to
+     * @param idempotencyKey header value; {@code null} bypasses the store
+     * @param fingerprint    request payload; a reused key with a different payload is rejected
+     * @param action         the request handling to run for the first occurrence of the key
+     */
+    public <T> T execute(String scope, String idempotencyKey, Object fingerprint, Supplier<T> action) {
+        if (idempotencyKey == null) {
+            return action.get();
+        }
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String storeKey = scope + ' ' + idempotencyKey;
+        long now = nanoClock.getAsLong();
+        Entry candidate = new Entry(fingerprint, new CompletableFuture<>(), now);
+        Entry current = entries.compute(storeKey,
+                (key, existing) -> existing == null || isExpired(existing, now) ? candidate : existing);
+        if (current != candidate) {
+            return replay(current, fingerprint);
+        }
+
+        insertionOrder.add(new Slot(storeKey, candidate));
+        queuedSlots.incrementAndGet();
+        evict(now);
+        return runOriginal(storeKey, candidate, action);
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    int queuedSlots() {
+        return queuedSlots.get();
+    }
+
+    private <T> T runOriginal(String storeKey, Entry entry, Supplier<T> action) {
+        T result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error ex) {
+            entries.remove(storeKey, entry);
+            entry.response().completeExceptionally(ex);
+            throw ex;
+        }
+        entry.response().complete(result);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T replay(Entry entry, Object fingerprint) {
+        if (!Objects.equals(entry.fingerprint(), fingerprint)) {
+            throw new ConflictException(HEADER + " was already used for a different request");
+        }
+        try {
+            return (T) entry.response().get(inFlightTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            throw new ConflictException("A request with the same " + HEADER + " is still in progress");
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new ConflictException("A request with the same " + HEADER + " is still in progress");
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * Drops expired or superseded entries from the head of the insertion queue, then the oldest
+     * completed entries while the store is over capacity. Entries share one TTL, so insertion order
+     * is also expiry order. In-flight entries are never evicted, so concurrent duplicates always find
+     * the original; the store may briefly exceed {@code maxEntries} by the number of running requests.
+     *
+     * <p>Failed executions leave their slot behind a live head. Once such stale slots outnumber
+     * {@code maxEntries}, the whole queue is compacted, which keeps it bounded at amortised O(1) cost.
+     */
+    private void evict(long now) {
+        synchronized (insertionOrder) {
+            Slot head;
+            while ((head = insertionOrder.peek()) != null && isStale(head, now)) {
+                insertionOrder.poll();
+                dropSlot(head);
+            }
+            if (queuedSlots.get() > entries.size() + maxEntries) {
+                compactStaleSlots(now);
+            }
+            Iterator<Slot> oldestFirst = insertionOrder.iterator();
+            while (entries.size() > maxEntries && oldestFirst.hasNext()) {
+                Slot slot = oldestFirst.next();
+                if (slot.entry().response().isDone()) {
+                    oldestFirst.remove();
+                    dropSlot(slot);
+                }
+            }
+        }
+    }
+
+    private void compactStaleSlots(long now) {
+        Iterator<Slot> slots = insertionOrder.iterator();
+        while (slots.hasNext()) {
+            Slot slot = slots.next();
+            if (isStale(slot, now)) {
+                slots.remove();
+                dropSlot(slot);
+            }
+        }
+    }
+
+    private void dropSlot(Slot slot) {
+        queuedSlots.decrementAndGet();
+        entries.remove(slot.key(), slot.entry());
+    }
+
+    private boolean isStale(Slot slot, long now) {
+        return entries.get(slot.key()) != slot.entry() || isExpired(slot.entry(), now);
+    }
+
+    private boolean isExpired(Entry entry, long now) {
+        return entry.response().isDone() && now - entry.createdAtNanos() >= ttlNanos;
+    }
+
+    private record Entry(Object fingerprint, CompletableFuture<Object> response, long createdAtNanos) {
+    }
+
+    private record Slot(String key, Entry entry) {
+    }
+}
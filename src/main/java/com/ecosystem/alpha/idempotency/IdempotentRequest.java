@@ -0,0 +1,30 @@
+package com.ecosystem.alpha.idempotency;
+
+import java.util.function.Supplier;
+
+/**
+ * Handler-method argument binding the current request's {@code Idempotency-Key} header and scope to the
+ * {@link IdempotencyStore}. Resolved by {@link IdempotentRequestArgumentResolver}; the scope is derived from
+ * the HTTP method, the matched mapping pattern and its path variables.
+ */
+public final class IdempotentRequest {
+
+    private final IdempotencyStore store;
+    private final String scope;
+    private final String idempotencyKey;
+
+    IdempotentRequest(IdempotencyStore store, String scope, String idempotencyKey) {
+        this.store = store;
+        this.scope = scope;
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    /**
+     * Runs {@code action} at most once for this request's key, or every time when no key was sent.
+     *
+     * @see IdempotencyStore#execute(String, String, Object, Supplier)
+     */
+    public <T> T execute(Object fingerprint, Supplier<T> action) {
+        return store.execute(scope, idempotencyKey, fingerprint, action);
+    }
+}
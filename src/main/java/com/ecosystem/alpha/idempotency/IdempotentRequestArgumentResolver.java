@@ -0,0 +1,49 @@
+package com.ecosystem.alpha.idempotency;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Resolves {@link IdempotentRequest} handler arguments. The scope is the HTTP method plus the matched
+ * mapping pattern and its path variables (e.g. {@code PUT /api/v1/users/{id} {id=1}}), so it follows
+ * the controller mappings instead of repeating them.
+ */
+public class IdempotentRequestArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private final IdempotencyStore store;
+
+    public IdempotentRequestArgumentResolver(IdempotencyStore store) {
+        this.store = store;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return IdempotentRequest.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public IdempotentRequest resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                             NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        return new IdempotentRequest(store, scope(webRequest), webRequest.getHeader(IdempotencyStore.HEADER));
+    }
+
+    @SuppressWarnings("unchecked")
+    static String scope(NativeWebRequest webRequest) {
+        Object pattern = webRequest.getAttribute(
+                HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        Map<String, String> variables = (Map<String, String>) webRequest.getAttribute(
+                HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        String method = webRequest.getNativeRequest(HttpServletRequest.class).getMethod();
+        String scope = method + ' ' + pattern;
+        return variables == null || variables.isEmpty() ? scope : scope + ' ' + new TreeMap<>(variables);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ecosystem.alpha.service;
+
+import com.ecosystem.alpha.exception.UserConflictException;
+import com.ecosystem.alpha.exception.UserNotFoundException;
+
+/**
+ * Outcome of a {@link UserService} operation. Expected failures (unknown id, duplicate username or email)
+ * are returned as values rather than thrown, so hot 404/409 paths avoid exception construction and
+ * stack-trace capture. Messages are only built when a response is rendered.
+ *
+ * @param <T> type of the value carried on success
+ */
+public sealed interface UserResult<T> {
+
+    static <T> UserResult<T> success(T value) {
+        return new Success<>(value);
+    }
+
+    static <T> UserResult<T> notFound(Long id) {
+        return new NotFound<>(id);
+    }
+
+    static <T> UserResult<T> conflict(String field, String value) {
+        return new Conflict<>(field, value);
+    }
+
+    /**
+     * Returns the success value, or throws the matching stack-trace-free domain exception for callers
+     * that still rely on {@code GlobalExceptionHandler}.
+     */
+    default T orElseThrow() {
+        return switch (this) {
+            case Success<T> success -> success.value();
+            case NotFound<T> notFound -> throw new UserNotFoundException(notFound.message());
+            case Conflict<T> conflict -> throw new UserConflictException(conflict.message());
+        };
+    }
+
+    record Success<T>(T value) implements UserResult<T> {
+    }
+
+    record NotFound<T>(Long id) implements UserResult<T> {
+
+        public String message() {
+            return "User not found with id: " + id;
+        }
+    }
+
+    record Conflict<T>(String field, String value) implements UserResult<T> {
+
+        public String message() {
+            return field + " already exists: " + value;
+        }
+    }
+}
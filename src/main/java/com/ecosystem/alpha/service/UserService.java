@@ -3,8 +3,6 @@ package com.ecosystem.alpha.service;
 import com.ecosystem.alpha.model.User;
 import com.ecosystem.alpha.repository.UserRepository;
 import com.ecosystem.common.dto.UserDto;
-import com.ecosystem.common.exception.ConflictException;
-import com.ecosystem.common.exception.NotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,36 +27,56 @@ public class UserService {
 
     @Transactional(readOnly = true)
     public UserDto findById(Long id) {
+        return lookup(id).orElseThrow();
+    }
+
+    @Transactional(readOnly = true)
+    public UserResult<UserDto> lookup(Long id) {
         return userRepository.findById(id)
-                .map(this::toDto)
-                .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
+                .map(user -> UserResult.success(toDto(user)))
+                .orElseGet(() -> UserResult.notFound(id));
     }
 
     public UserDto create(UserDto dto) {
+        return tryCreate(dto).orElseThrow();
+    }
+
+    public UserResult<UserDto> tryCreate(UserDto dto) {
         if (userRepository.existsByUsername(dto.username())) {
-            throw new ConflictException("Username already exists: " + dto.username());
+            return UserResult.conflict("Username", dto.username());
         }
         if (userRepository.existsByEmail(dto.email())) {
-            throw new ConflictException("Email already exists: " + dto.email());
+            return UserResult.conflict("Email", dto.email());
         }
         User user = toEntity(dto);
-        return toDto(userRepository.save(user));
+        return UserResult.success(toDto(userRepository.save(user)));
     }
 
     public UserDto update(Long id, UserDto dto) {
-        User user = userRepository.findById(id)
-                .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
-        user.setUsername(dto.username());
-        user.setEmail(dto.email());
-        user.setFullName(dto.fullName());
-        return toDto(userRepository.save(user));
+        return tryUpdate(id, dto).orElseThrow();
+    }
+
+    public UserResult<UserDto> tryUpdate(Long id, UserDto dto) {
+        return userRepository.findById(id)
+                .map(user -> {
+                    user.setUsername(dto.username());
+                    user.setEmail(dto.email());
+                    user.setFullName(dto.fullName());
+                    return UserResult.success(toDto(userRepository.save(user)));
+                })
+                .orElseGet(() -> UserResult.notFound(id));
     }
 
     public void delete(Long id) {
+        tryDelete(id).orElseThrow();
+    }
+
+    public UserResult<Void> tryDelete(Long id) {
         if (!userRepository.existsById(id)) {
-            throw new NotFoundException("User not found with id: " + id);
+            return UserResult.notFound(id);
         }
         userRepository.deleteById(id);
+        return UserResult.success(null);
     }
 
     private UserDto toDto(User user) {
@@ -0,0 +1,109 @@
+package com.ecosystem.alpha.benchmark;
+
+import com.ecosystem.alpha.repository.UserRepository;
+import com.ecosystem.alpha.service.UserResult;
+import com.ecosystem.alpha.service.UserService;
+import com.ecosystem.common.dto.UserDto;
+import com.ecosystem.common.exception.NotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Throughput of the 404 path when every lookup misses, comparing the former exception-per-miss
+ * behaviour with the stack-trace-free exception fallback and the {@link UserResult} path.
+ * {@code callDepth} pads the stack to approximate the frames Spring MVC adds above the service.
+ *
+ * <p>Run with {@code mvn -B test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java
+ * -Dexec.args="-cp %classpath com.ecosystem.alpha.benchmark.UserLookupBenchmark"} so the forked
+ * benchmark JVM inherits the test classpath.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UserLookupBenchmark {
+
+    @Param({"0", "100"})
+    public int callDepth;
+
+    private UserRepository userRepository;
+    private UserService userService;
+    private long nextId;
+
+    @Setup
+    public void setUp() {
+        userRepository = (UserRepository) Proxy.newProxyInstance(
+                UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.empty();
+                    case "existsById" -> false;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        userService = new UserService(userRepository);
+    }
+
+    @Benchmark
+    public void exceptionWithStackTrace(Blackhole blackhole) {
+        long id = nextId++;
+        blackhole.consume(atDepth(callDepth, () -> {
+            try {
+                return userRepository.findById(id)
+                        .orElseThrow(() -> new NotFoundException("User not found with id: " + id));
+            } catch (NotFoundException ex) {
+                return ex.getMessage();
+            }
+        }));
+    }
+
+    @Benchmark
+    public void stackTraceFreeException(Blackhole blackhole) {
+        long id = nextId++;
+        blackhole.consume(atDepth(callDepth, () -> {
+            try {
+                return userService.findById(id);
+            } catch (NotFoundException ex) {
+                return ex.getMessage();
+            }
+        }));
+    }
+
+    @Benchmark
+    public void result(Blackhole blackhole) {
+        long id = nextId++;
+        blackhole.consume(atDepth(callDepth, () -> {
+            UserResult<UserDto> result = userService.lookup(id);
+            return result instanceof UserResult.NotFound<UserDto> notFound ? notFound.message() : result;
+        }));
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> call) {
+        return depth == 0 ? call.get() : atDepth(depth - 1, call);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(UserLookupBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,34 @@
+package com.ecosystem.alpha.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyPropertiesTest {
+
+    private static final Duration TTL = Duration.ofHours(24);
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    void shouldRejectProperties_whenMaxEntriesIsNotPositive() {
+        assertThatThrownBy(() -> new IdempotencyProperties(0, TTL, TIMEOUT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("max-entries");
+    }
+
+    @Test
+    void shouldRejectProperties_whenTtlIsNotPositive() {
+        assertThatThrownBy(() -> new IdempotencyProperties(10, Duration.ZERO, TIMEOUT))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("ttl");
+    }
+
+    @Test
+    void shouldRejectProperties_whenInFlightTimeoutIsNegative() {
+        assertThatThrownBy(() -> new IdempotencyProperties(10, TTL, Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("in-flight-timeout");
+    }
+}
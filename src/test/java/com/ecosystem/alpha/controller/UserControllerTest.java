@@ -1,14 +1,18 @@
 package com.ecosystem.alpha.controller;
 
+import com.ecosystem.alpha.config.IdempotencyProperties;
+import com.ecosystem.alpha.config.IdempotencyWebConfig;
+import com.ecosystem.alpha.idempotency.IdempotencyStore;
+import com.ecosystem.alpha.service.UserResult;
 import com.ecosystem.alpha.service.UserService;
 import com.ecosystem.common.dto.UserDto;
-import com.ecosystem.common.exception.ConflictException;
-import com.ecosystem.common.exception.NotFoundException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -17,8 +21,8 @@ import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.doNothing;
-import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -28,6 +32,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(UserController.class)
+@Import({IdempotencyStore.class, IdempotencyWebConfig.class})
+@EnableConfigurationProperties(IdempotencyProperties.class)
 class UserControllerTest {
 
     @Autowired
@@ -55,7 +61,7 @@ class UserControllerTest {
 
     @Test
     void shouldReturnUser_whenGetByIdCalledWithValidId() throws Exception {
-        when(userService.findById(1L)).thenReturn(SAMPLE_USER);
+        when(userService.lookup(1L)).thenReturn(UserResult.success(SAMPLE_USER));
 
         mockMvc.perform(get("/api/v1/users/1"))
                 .andExpect(status().isOk())
@@ -65,7 +71,7 @@ class UserControllerTest {
 
     @Test
     void shouldReturn404_whenGetByIdCalledWithUnknownId() throws Exception {
-        when(userService.findById(99L)).thenThrow(new NotFoundException("User not found with id: 99"));
+        when(userService.lookup(99L)).thenReturn(UserResult.notFound(99L));
 
         mockMvc.perform(get("/api/v1/users/99"))
                 .andExpect(status().isNotFound())
@@ -74,7 +80,7 @@ class UserControllerTest {
 
     @Test
     void shouldCreateUser_whenPostCalledWithValidBody() throws Exception {
-        when(userService.create(any(UserDto.class))).thenReturn(SAMPLE_USER);
+        when(userService.tryCreate(any(UserDto.class))).thenReturn(UserResult.success(SAMPLE_USER));
 
         mockMvc.perform(post("/api/v1/users")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -86,8 +92,7 @@ class UserControllerTest {
 
     @Test
     void shouldReturn409_whenCreateCalledWithDuplicateUsername() throws Exception {
-        when(userService.create(any(UserDto.class)))
-                .thenThrow(new ConflictException("Username already exists: jdoe"));
+        when(userService.tryCreate(any(UserDto.class))).thenReturn(UserResult.conflict("Username", "jdoe"));
 
         mockMvc.perform(post("/api/v1/users")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -96,9 +101,45 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.success").value(false));
     }
 
+    @Test
+    void shouldReplayCreateResponse_whenPostRetriedWithSameIdempotencyKey() throws Exception {
+        when(userService.tryCreate(any(UserDto.class))).thenReturn(UserResult.success(SAMPLE_USER));
+        String body = objectMapper.writeValueAsString(SAMPLE_USER);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(post("/api/v1/users")
+                            .header(IdempotencyStore.HEADER, "create-retry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.data.username").value("jdoe"));
+        }
+
+        verify(userService, times(1)).tryCreate(any(UserDto.class));
+    }
+
+    @Test
+    void shouldReturn409_whenIdempotencyKeyReusedWithDifferentBody() throws Exception {
+        when(userService.tryCreate(any(UserDto.class))).thenReturn(UserResult.success(SAMPLE_USER));
+        UserDto other = new UserDto(null, "asmith", "asmith@example.com", "Alice Smith", null, null);
+
+        mockMvc.perform(post("/api/v1/users")
+                        .header(IdempotencyStore.HEADER, "create-mismatch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(SAMPLE_USER)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/users")
+                        .header(IdempotencyStore.HEADER, "create-mismatch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(other)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
     @Test
     void shouldUpdateUser_whenPutCalledWithValidIdAndBody() throws Exception {
-        when(userService.update(eq(1L), any(UserDto.class))).thenReturn(SAMPLE_USER);
+        when(userService.tryUpdate(eq(1L), any(UserDto.class))).thenReturn(UserResult.success(SAMPLE_USER));
 
         mockMvc.perform(put("/api/v1/users/1")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -110,8 +151,7 @@ class UserControllerTest {
 
     @Test
     void shouldReturn404_whenUpdateCalledWithUnknownId() throws Exception {
-        when(userService.update(eq(99L), any(UserDto.class)))
-                .thenThrow(new NotFoundException("User not found with id: 99"));
+        when(userService.tryUpdate(eq(99L), any(UserDto.class))).thenReturn(UserResult.notFound(99L));
 
         mockMvc.perform(put("/api/v1/users/99")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -120,9 +160,43 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.success").value(false));
     }
 
+    @Test
+    void shouldReplayUpdateResponse_whenPutRetriedWithSameIdempotencyKey() throws Exception {
+        when(userService.tryUpdate(eq(1L), any(UserDto.class))).thenReturn(UserResult.success(SAMPLE_USER));
+        String body = objectMapper.writeValueAsString(SAMPLE_USER);
+
+        for (int attempt = 0; attempt < 2; attempt++) {
+            mockMvc.perform(put("/api/v1/users/1")
+                            .header(IdempotencyStore.HEADER, "update-retry")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.fullName").value("John Doe"));
+        }
+
+        verify(userService, times(1)).tryUpdate(eq(1L), any(UserDto.class));
+    }
+
+    @Test
+    void shouldExecuteEachUpdate_whenSameIdempotencyKeyUsedForDifferentIds() throws Exception {
+        when(userService.tryUpdate(any(Long.class), any(UserDto.class))).thenReturn(UserResult.success(SAMPLE_USER));
+        String body = objectMapper.writeValueAsString(SAMPLE_USER);
+
+        for (long id = 1; id <= 2; id++) {
+            mockMvc.perform(put("/api/v1/users/" + id)
+                            .header(IdempotencyStore.HEADER, "update-shared")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(body))
+                    .andExpect(status().isOk());
+        }
+
+        verify(userService).tryUpdate(eq(1L), any(UserDto.class));
+        verify(userService).tryUpdate(eq(2L), any(UserDto.class));
+    }
+
     @Test
     void shouldDeleteUser_whenDeleteCalledWithValidId() throws Exception {
-        doNothing().when(userService).delete(1L);
+        when(userService.tryDelete(1L)).thenReturn(UserResult.success(null));
 
         mockMvc.perform(delete("/api/v1/users/1"))
                 .andExpect(status().isNoContent());
@@ -130,7 +204,7 @@ class UserControllerTest {
 
     @Test
     void shouldReturn404_whenDeleteCalledWithUnknownId() throws Exception {
-        doThrow(new NotFoundException("User not found with id: 99")).when(userService).delete(99L);
+        when(userService.tryDelete(99L)).thenReturn(UserResult.notFound(99L));
 
         mockMvc.perform(delete("/api/v1/users/99"))
                 .andExpect(status().isNotFound())
@@ -0,0 +1,199 @@
+package com.ecosystem.alpha.idempotency;
+
+import com.ecosystem.alpha.config.IdempotencyProperties;
+import com.ecosystem.common.exception.ConflictException;
+import com.ecosystem.common.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class IdempotencyStoreTest {
+
+    private static final String SCOPE = "POST /api/v1/users";
+
+    private final AtomicLong clock = new AtomicLong();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private IdempotencyStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(
+                new IdempotencyProperties(2, Duration.ofMinutes(1), Duration.ofSeconds(5)), clock::get);
+    }
+
+    @Test
+    void shouldExecuteEveryTime_whenNoKeyProvided() {
+        store.execute(SCOPE, null, "body", executions::incrementAndGet);
+        store.execute(SCOPE, null, "body", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    void shouldReplayStoredResponse_whenKeyReused() {
+        int first = store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+        int second = store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldExecuteSeparately_whenSameKeyUsedInDifferentScope() {
+        store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+        store.execute("PUT /api/v1/users/1", "key-1", "body", executions::incrementAndGet);
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldThrowConflictException_whenKeyReusedWithDifferentFingerprint() {
+        store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "other", executions::incrementAndGet))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining(IdempotencyStore.HEADER);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldThrowValidationException_whenKeyIsBlank() {
+        assertThatThrownBy(() -> store.execute(SCOPE, " ", "body", executions::incrementAndGet))
+                .isInstanceOf(ValidationException.class);
+        assertThat(executions).hasValue(0);
+    }
+
+    @Test
+    void shouldExecuteAgain_whenStoredResponseExpired() {
+        store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+        clock.addAndGet(Duration.ofMinutes(1).toNanos());
+
+        int result = store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+
+        assertThat(result).isEqualTo(2);
+    }
+
+    @Test
+    void shouldAllowRetry_whenOriginalExecutionFailed() {
+        assertThatThrownBy(() -> store.execute(SCOPE, "key-1", "body", () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        int result = store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+
+        assertThat(result).isEqualTo(1);
+    }
+
+    @Test
+    void shouldEvictOldestEntry_whenCapacityExceeded() {
+        store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+        store.execute(SCOPE, "key-2", "body", executions::incrementAndGet);
+        store.execute(SCOPE, "key-3", "body", executions::incrementAndGet);
+
+        assertThat(store.size()).isEqualTo(2);
+        int replayOfEvicted = store.execute(SCOPE, "key-1", "body", executions::incrementAndGet);
+        assertThat(replayOfEvicted).isEqualTo(4);
+    }
+
+    @Test
+    void shouldKeepQueueBounded_whenKeyedExecutionsFailBehindLiveEntry() {
+        store.execute(SCOPE, "live", "body", executions::incrementAndGet);
+
+        for (int i = 0; i < 100; i++) {
+            String key = "failing-" + i;
+            assertThatThrownBy(() -> store.execute(SCOPE, key, "body", () -> {
+                throw new IllegalStateException("database unavailable");
+            })).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(store.size()).isEqualTo(1);
+        // the live entry, at most maxEntries stale slots before compaction, and the slot being inserted
+        assertThat(store.queuedSlots()).isLessThanOrEqualTo(1 + 2 + 1);
+        assertThat(store.execute(SCOPE, "live", "body", executions::incrementAndGet)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldWaitForInFlightOriginal_whenDuplicateArrivesConcurrently() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> original = startBlocked(store, "key-1", started, release);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<Integer> duplicate = CompletableFuture.supplyAsync(
+                () -> store.execute(SCOPE, "key-1", "body", executions::incrementAndGet));
+        Thread.sleep(200);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(original.get(5, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    void shouldKeepInFlightEntry_whenCapacityExceeded() throws Exception {
+        IdempotencyStore singleEntryStore = new IdempotencyStore(
+                new IdempotencyProperties(1, Duration.ofMinutes(1), Duration.ofSeconds(5)), clock::get);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> original = startBlocked(singleEntryStore, "key-1", started, release);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        singleEntryStore.execute(SCOPE, "key-2", "body", executions::incrementAndGet);
+        CompletableFuture<Integer> duplicate = CompletableFuture.supplyAsync(
+                () -> singleEntryStore.execute(SCOPE, "key-1", "body", executions::incrementAndGet));
+        Thread.sleep(200);
+        assertThat(duplicate).isNotDone();
+        release.countDown();
+
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo(original.get(5, TimeUnit.SECONDS));
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    void shouldThrowConflictException_whenInFlightOriginalOutlastsTimeout() throws Exception {
+        IdempotencyStore shortTimeoutStore = new IdempotencyStore(
+                new IdempotencyProperties(2, Duration.ofMinutes(1), Duration.ofMillis(50)), clock::get);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Integer> original = startBlocked(shortTimeoutStore, "key-1", started, release);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> shortTimeoutStore.execute(SCOPE, "key-1", "body", executions::incrementAndGet))
+                    .isInstanceOf(ConflictException.class)
+                    .hasMessageContaining("still in progress");
+        } finally {
+            release.countDown();
+        }
+        assertThat(original.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+        assertThat(executions).hasValue(1);
+    }
+
+    private CompletableFuture<Integer> startBlocked(IdempotencyStore target, String key,
+                                                    CountDownLatch started, CountDownLatch release) {
+        return CompletableFuture.supplyAsync(() -> target.execute(SCOPE, key, "body", () -> {
+            started.countDown();
+            awaitQuietly(release);
+            return executions.incrementAndGet();
+        }));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecosystem.alpha.idempotency;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdempotentRequestArgumentResolverTest {
+
+    @Test
+    void shouldBuildScopeFromMethodAndPattern_whenNoPathVariables() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/users");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users");
+
+        assertThat(IdempotentRequestArgumentResolver.scope(new ServletWebRequest(request)))
+                .isEqualTo("POST /api/v1/users");
+    }
+
+    @Test
+    void shouldIncludePathVariablesInScope_whenPatternHasVariables() {
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/users/7");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/users/{id}");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("id", "7"));
+
+        assertThat(IdempotentRequestArgumentResolver.scope(new ServletWebRequest(request)))
+                .isEqualTo("PUT /api/v1/users/{id} {id=7}");
+    }
+}
@@ -0,0 +1,40 @@
+package com.ecosystem.alpha.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Process-wide GC and allocation counters. The server and the load generator share the JVM, so the
+ * figures include client-side work as well as request handling.
+ *
+ * @param gcCount        completed collections across all collectors
+ * @param gcTimeMillis   accumulated collection time across all collectors
+ * @param allocatedBytes heap bytes allocated by platform threads, or -1 when the JVM does not support it
+ */
+record JvmStats(long gcCount, long gcTimeMillis, long allocatedBytes) {
+
+    static JvmStats capture() {
+        long count = 0;
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return new JvmStats(count, time, totalAllocatedBytes());
+    }
+
+    JvmStats since(JvmStats earlier) {
+        long allocated = allocatedBytes < 0 || earlier.allocatedBytes < 0
+                ? -1 : allocatedBytes - earlier.allocatedBytes;
+        return new JvmStats(gcCount - earlier.gcCount, gcTimeMillis - earlier.gcTimeMillis, allocated);
+    }
+
+    private static long totalAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads
+                && threads.isThreadAllocatedMemorySupported()
+                && threads.isThreadAllocatedMemoryEnabled()) {
+            return threads.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecosystem.alpha.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records latencies and outcomes for one operation into a fixed-size histogram, so memory stays constant
+ * however long a soak runs and recording does not allocate inside the JVM being measured. Latencies are
+ * kept at microsecond resolution with three significant digits; anything above one hour is clamped.
+ */
+final class LatencyRecorder {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+    private final Histogram histogram = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    void record(long latencyNanos, boolean success) {
+        long micros = Math.max(TimeUnit.NANOSECONDS.toMicros(latencyNanos), 1);
+        histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    LatencySummary summarize() {
+        Histogram snapshot = histogram.copy();
+        return new LatencySummary(snapshot.getTotalCount(), errors.sum(),
+                nanosAt(snapshot, 50.0), nanosAt(snapshot, 90.0), nanosAt(snapshot, 99.0),
+                nanosAt(snapshot, 99.9), TimeUnit.MICROSECONDS.toNanos(snapshot.getMaxValue()));
+    }
+
+    private static long nanosAt(Histogram histogram, double percentile) {
+        return TimeUnit.MICROSECONDS.toNanos(histogram.getValueAtPercentile(percentile));
+    }
+
+    /**
+     * Latencies are in nanoseconds, measured from each request's scheduled start.
+     */
+    record LatencySummary(long requests, long errors, long p50, long p90, long p99, long p999, long max) {
+
+        double errorRate() {
+            return requests == 0 ? 0 : (double) errors / requests;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.ecosystem.alpha.loadtest;
+
+import com.ecosystem.alpha.loadtest.LatencyRecorder.LatencySummary;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of a load-test run and its check against the configured regression thresholds.
+ *
+ * @param measured          time from the end of warmup until in-flight requests drained
+ * @param completedInWindow successful requests that completed within the measurement window
+ */
+record LoadReport(
+        LoadTestSettings settings,
+        Duration measured,
+        long completedInWindow,
+        LatencySummary overall,
+        Map<Operation, LatencySummary> perOperation,
+        JvmStats jvm) {
+
+    double throughput() {
+        return completedInWindow / seconds(settings.duration());
+    }
+
+    List<String> thresholdViolations() {
+        List<String> violations = new ArrayList<>();
+        if (overall.errorRate() > settings.maxErrorRate()) {
+            violations.add(String.format(Locale.ROOT, "error rate %.4f exceeds %.4f",
+                    overall.errorRate(), settings.maxErrorRate()));
+        }
+        if (overall.p99() > settings.maxP99().toNanos()) {
+            violations.add(String.format(Locale.ROOT, "p99 %.3f ms exceeds %.3f ms",
+                    millis(overall.p99()), millis(settings.maxP99().toNanos())));
+        }
+        double minThroughput = settings.arrivalRate() * settings.minThroughputRatio();
+        if (throughput() < minThroughput) {
+            violations.add(String.format(Locale.ROOT, "throughput %.1f req/s is below %.1f req/s",
+                    throughput(), minThroughput));
+        }
+        return violations;
+    }
+
+    String format() {
+        StringBuilder report = new StringBuilder()
+                .append(String.format(Locale.ROOT, "Load test: %d req/s for %s after %s warmup, mix %s%n",
+                        settings.arrivalRate(), settings.duration(), settings.warmup(), settings.mix().weights()))
+                .append(String.format(Locale.ROOT, "%-10s %9s %8s %9s %9s %9s %9s %9s%n",
+                        "operation", "requests", "errors", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        perOperation.forEach((operation, summary) -> report.append(row(operation.key(), summary)));
+        report.append(row("overall", overall))
+                .append(String.format(Locale.ROOT, "throughput %.1f req/s, error rate %.4f%n",
+                        throughput(), overall.errorRate()))
+                .append(String.format(Locale.ROOT, "gc: %d collections, %d ms", jvm.gcCount(), jvm.gcTimeMillis()));
+        if (jvm.allocatedBytes() >= 0 && overall.requests() > 0) {
+            report.append(String.format(Locale.ROOT, ", allocated %.1f MB/s, %.1f KB/request",
+                    jvm.allocatedBytes() / 1_048_576.0 / seconds(measured),
+                    jvm.allocatedBytes() / 1024.0 / overall.requests()));
+        }
+        return report.append(System.lineSeparator()).toString();
+    }
+
+    private static String row(String label, LatencySummary summary) {
+        return String.format(Locale.ROOT, "%-10s %9d %8d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, summary.requests(), summary.errors(), millis(summary.p50()), millis(summary.p90()),
+                millis(summary.p99()), millis(summary.p999()), millis(summary.max()));
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static double seconds(Duration duration) {
+        return duration.toNanos() / 1_000_000_000.0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ecosystem.alpha.loadtest;
+
+import com.ecosystem.alpha.loadtest.LatencyRecorder.LatencySummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadReportTest {
+
+    private static final long MAX_P99_NANOS = Duration.ofMillis(100).toNanos();
+    private static final LoadTestSettings SETTINGS = new LoadTestSettings(
+            Duration.ZERO, Duration.ofSeconds(10), 100, OperationMix.parse("findById=1"), 1, 42,
+            Duration.ofSeconds(5), 0.01, Duration.ofMillis(100), 0.95);
+
+    @Test
+    void shouldReportNoViolations_whenEveryThresholdIsExactlyMet() {
+        LoadReport report = report(1, MAX_P99_NANOS, 950);
+
+        assertThat(report.thresholdViolations()).isEmpty();
+    }
+
+    @Test
+    void shouldReportErrorRateViolation_whenErrorRateJustExceedsLimit() {
+        LoadReport report = report(2, MAX_P99_NANOS, 950);
+
+        assertThat(report.thresholdViolations()).singleElement().asString().contains("error rate");
+    }
+
+    @Test
+    void shouldReportP99Violation_whenP99JustExceedsLimit() {
+        LoadReport report = report(1, MAX_P99_NANOS + 1, 950);
+
+        assertThat(report.thresholdViolations()).singleElement().asString().contains("p99");
+    }
+
+    @Test
+    void shouldReportThroughputViolation_whenThroughputJustBelowFloor() {
+        LoadReport report = report(1, MAX_P99_NANOS, 949);
+
+        assertThat(report.thresholdViolations()).singleElement().asString().contains("throughput");
+    }
+
+    @Test
+    void shouldMeasureThroughputOverScheduledWindow_whenDrainRunsPastIt() {
+        LoadReport report = new LoadReport(SETTINGS, Duration.ofSeconds(15), 1000,
+                summary(1, MAX_P99_NANOS), Map.of(), new JvmStats(0, 0, -1));
+
+        assertThat(report.throughput()).isEqualTo(100.0);
+    }
+
+    private static LoadReport report(long errors, long p99, long completedInWindow) {
+        return new LoadReport(SETTINGS, SETTINGS.duration(), completedInWindow, summary(errors, p99),
+                Map.of(Operation.FIND_BY_ID, summary(errors, p99)), new JvmStats(0, 0, -1));
+    }
+
+    private static LatencySummary summary(long errors, long p99) {
+        return new LatencySummary(100, errors, p99 / 2, p99 / 2, p99, p99, p99);
+    }
+}
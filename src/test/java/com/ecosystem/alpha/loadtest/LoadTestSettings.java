@@ -0,0 +1,72 @@
+package com.ecosystem.alpha.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load-test parameters and regression thresholds, overridable with {@code -Dloadtest.*} system properties.
+ *
+ * @param warmup             time spent at the target rate before measurement starts
+ * @param duration           measured time at the target rate
+ * @param arrivalRate        requests started per second, independent of response times (open model)
+ * @param mix                weighted distribution of operations; keep create and delete weights equal so the
+ *                           data set stays stationary and {@code findAll} latency does not track table growth
+ * @param seedUsers          users inserted into H2 before the run
+ * @param randomSeed         seed for the operation sequence, so runs issue the same mix in the same order
+ * @param requestTimeout     per-request timeout; timed-out requests count as errors
+ * @param maxErrorRate       highest tolerated fraction of failed requests
+ * @param maxP99             highest tolerated overall 99th percentile latency
+ * @param minThroughputRatio lowest tolerated ratio of successful requests per second to {@code arrivalRate}
+ */
+record LoadTestSettings(
+        Duration warmup,
+        Duration duration,
+        int arrivalRate,
+        OperationMix mix,
+        int seedUsers,
+        long randomSeed,
+        Duration requestTimeout,
+        double maxErrorRate,
+        Duration maxP99,
+        double minThroughputRatio) {
+
+    /**
+     * One request per nanosecond; above this the scheduling interval rounds down to zero.
+     */
+    private static final int MAX_ARRIVAL_RATE = 1_000_000_000;
+
+    static final String DEFAULT_MIX = "findById=60,findAll=5,create=10,update=15,delete=10";
+
+    LoadTestSettings {
+        if (arrivalRate <= 0 || arrivalRate > MAX_ARRIVAL_RATE) {
+            throw new IllegalArgumentException(
+                    "loadtest.rate must be between 1 and " + MAX_ARRIVAL_RATE + ": " + arrivalRate);
+        }
+        if (warmup.isNegative()) {
+            throw new IllegalArgumentException("loadtest.warmup must not be negative: " + warmup);
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("loadtest.duration must be positive: " + duration);
+        }
+        if (seedUsers <= 0) {
+            throw new IllegalArgumentException("loadtest.seedUsers must be positive: " + seedUsers);
+        }
+    }
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Duration.parse(property("warmup", "PT10S")),
+                Duration.parse(property("duration", "PT30S")),
+                Integer.parseInt(property("rate", "100")),
+                OperationMix.parse(property("mix", DEFAULT_MIX)),
+                Integer.parseInt(property("seedUsers", "500")),
+                Long.parseLong(property("randomSeed", "42")),
+                Duration.parse(property("requestTimeout", "PT5S")),
+                Double.parseDouble(property("maxErrorRate", "0.01")),
+                Duration.parse(property("maxP99", "PT0.25S")),
+                Double.parseDouble(property("minThroughputRatio", "0.95")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty("loadtest." + name, defaultValue);
+    }
+}
@@ -0,0 +1,67 @@
+package com.ecosystem.alpha.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LoadTestSettingsTest {
+
+    private static final OperationMix MIX = OperationMix.parse("findById=1");
+
+    @Test
+    void shouldAcceptSettings_whenWarmupIsZeroAndRateIsAtLimit() {
+        LoadTestSettings settings = settings(Duration.ZERO, Duration.ofSeconds(1), 1_000_000_000, 1);
+
+        assertThat(settings.arrivalRate()).isEqualTo(1_000_000_000);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenRateIsNotPositive() {
+        assertThatThrownBy(() -> settings(Duration.ZERO, Duration.ofSeconds(1), 0, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loadtest.rate");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenRateExceedsOnePerNanosecond() {
+        assertThatThrownBy(() -> settings(Duration.ZERO, Duration.ofSeconds(1), 1_000_000_001, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loadtest.rate");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenWarmupIsNegative() {
+        assertThatThrownBy(() -> settings(Duration.ofSeconds(-1), Duration.ofSeconds(1), 10, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loadtest.warmup");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenDurationIsZero() {
+        assertThatThrownBy(() -> settings(Duration.ZERO, Duration.ZERO, 10, 1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loadtest.duration");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenSeedUsersIsNotPositive() {
+        assertThatThrownBy(() -> settings(Duration.ZERO, Duration.ofSeconds(1), 10, 0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("loadtest.seedUsers");
+    }
+
+    @Test
+    void shouldWeighCreateAndDeleteEqually_whenDefaultMixUsed() {
+        OperationMix mix = OperationMix.parse(LoadTestSettings.DEFAULT_MIX);
+
+        assertThat(mix.weights().get(Operation.CREATE)).isEqualTo(mix.weights().get(Operation.DELETE));
+    }
+
+    private static LoadTestSettings settings(Duration warmup, Duration duration, int rate, int seedUsers) {
+        return new LoadTestSettings(warmup, duration, rate, MIX, seedUsers, 42, Duration.ofSeconds(5),
+                0.01, Duration.ofMillis(250), 0.95);
+    }
+}
@@ -0,0 +1,104 @@
+package com.ecosystem.alpha.loadtest;
+
+import com.ecosystem.alpha.loadtest.LatencyRecorder.LatencySummary;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives an {@link OperationExecutor} with an open-model workload: requests start on a fixed schedule
+ * at the configured arrival rate whether or not earlier requests have completed, each on its own virtual
+ * thread. Latency is measured from the scheduled start rather than the actual send, so a stalled server
+ * shows up as queueing delay instead of silently lowering the offered load. Throughput counts only
+ * successful completions inside the measurement window, so draining slow requests afterwards does not
+ * dilute it.
+ */
+final class OpenModelLoadGenerator {
+
+    @FunctionalInterface
+    interface OperationExecutor {
+
+        /**
+         * Issues one request and reports whether the response matched the expected status.
+         */
+        boolean execute(Operation operation) throws Exception;
+    }
+
+    private final LoadTestSettings settings;
+    private final OperationExecutor executor;
+
+    OpenModelLoadGenerator(LoadTestSettings settings, OperationExecutor executor) {
+        this.settings = settings;
+        this.executor = executor;
+    }
+
+    LoadReport run() {
+        Map<Operation, LatencyRecorder> recorders = new EnumMap<>(Operation.class);
+        settings.mix().weights().keySet().forEach(operation -> recorders.put(operation, new LatencyRecorder()));
+        LatencyRecorder overall = new LatencyRecorder();
+        LongAdder completedInWindow = new LongAdder();
+        SplittableRandom random = new SplittableRandom(settings.randomSeed());
+        long intervalNanos = 1_000_000_000L / settings.arrivalRate();
+
+        JvmStats before = null;
+        long start = System.nanoTime();
+        long measureFrom = start + settings.warmup().toNanos();
+        long end = measureFrom + settings.duration().toNanos();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long sequence = 0; ; sequence++) {
+                long scheduled = start + sequence * intervalNanos;
+                if (scheduled >= end) {
+                    break;
+                }
+                boolean measured = scheduled >= measureFrom;
+                if (measured && before == null) {
+                    before = JvmStats.capture();
+                }
+                Operation operation = settings.mix().pick(random.nextInt(settings.mix().totalWeight()));
+                parkUntil(scheduled);
+                workers.execute(() -> {
+                    boolean success = executeQuietly(operation);
+                    long completed = System.nanoTime();
+                    if (success && completed - measureFrom >= 0 && end - completed > 0) {
+                        completedInWindow.increment();
+                    }
+                    if (measured) {
+                        long latency = completed - scheduled;
+                        recorders.get(operation).record(latency, success);
+                        overall.record(latency, success);
+                    }
+                });
+            }
+        }
+        JvmStats jvm = JvmStats.capture().since(before == null ? JvmStats.capture() : before);
+        Duration measured = Duration.ofNanos(Math.max(System.nanoTime(), end) - measureFrom);
+
+        Map<Operation, LatencySummary> perOperation = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> perOperation.put(operation, recorder.summarize()));
+        return new LoadReport(settings, measured, completedInWindow.sum(), overall.summarize(), perOperation, jvm);
+    }
+
+    private boolean executeQuietly(Operation operation) {
+        try {
+            return executor.execute(operation);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception ex) {
+            return false;
+        }
+    }
+
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ecosystem.alpha.loadtest;
+
+/**
+ * User API calls the load generator can issue, keyed by the names used in {@code loadtest.mix}.
+ */
+enum Operation {
+
+    FIND_BY_ID("findById"),
+    FIND_ALL("findAll"),
+    CREATE("create"),
+    UPDATE("update"),
+    DELETE("delete");
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load-test operation: " + key);
+    }
+}
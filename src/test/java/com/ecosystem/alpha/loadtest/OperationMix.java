@@ -0,0 +1,47 @@
+package com.ecosystem.alpha.loadtest;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Weighted distribution of operations, parsed from a spec such as
+ * {@code findById=60,findAll=5,create=15,update=15,delete=5}.
+ */
+record OperationMix(Map<Operation, Integer> weights, int totalWeight) {
+
+    static OperationMix parse(String spec) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        int total = 0;
+        for (String part : spec.split(",")) {
+            String[] pair = part.trim().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid load-test mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Negative load-test mix weight: " + part);
+            }
+            weights.put(Operation.fromKey(pair[0].trim()), weight);
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Load-test mix has no positive weights: " + spec);
+        }
+        return new OperationMix(Collections.unmodifiableMap(weights), total);
+    }
+
+    /**
+     * Maps {@code roll}, uniformly drawn from {@code [0, totalWeight)}, to an operation.
+     */
+    Operation pick(int roll) {
+        int remaining = roll;
+        for (Map.Entry<Operation, Integer> entry : weights.entrySet()) {
+            remaining -= entry.getValue();
+            if (remaining < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("Roll out of range: " + roll);
+    }
+}
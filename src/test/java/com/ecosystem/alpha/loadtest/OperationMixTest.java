@@ -0,0 +1,66 @@
+package com.ecosystem.alpha.loadtest;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OperationMixTest {
+
+    @Test
+    void shouldParseWeights_whenSpecIsValid() {
+        OperationMix mix = OperationMix.parse(" findById = 2 , create=1");
+
+        assertThat(mix.totalWeight()).isEqualTo(3);
+        assertThat(mix.weights()).containsEntry(Operation.FIND_BY_ID, 2).containsEntry(Operation.CREATE, 1);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenEntryHasNoWeight() {
+        assertThatThrownBy(() -> OperationMix.parse("findById"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("findById");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenOperationIsUnknown() {
+        assertThatThrownBy(() -> OperationMix.parse("patch=1"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("patch");
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenWeightIsNegative() {
+        assertThatThrownBy(() -> OperationMix.parse("findById=-1,create=2"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenTotalWeightIsZero() {
+        assertThatThrownBy(() -> OperationMix.parse("findById=0,create=0"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldPickOperationByCumulativeWeight_whenRollOnBoundaries() {
+        OperationMix mix = OperationMix.parse("findById=2,create=1");
+
+        assertThat(mix.pick(0)).isEqualTo(Operation.FIND_BY_ID);
+        assertThat(mix.pick(1)).isEqualTo(Operation.FIND_BY_ID);
+        assertThat(mix.pick(2)).isEqualTo(Operation.CREATE);
+    }
+
+    @Test
+    void shouldNeverPickZeroWeightOperation_whenRollIsZero() {
+        OperationMix mix = OperationMix.parse("findAll=0,delete=1");
+
+        assertThat(mix.pick(0)).isEqualTo(Operation.DELETE);
+    }
+
+    @Test
+    void shouldThrowIllegalArgumentException_whenRollIsOutOfRange() {
+        OperationMix mix = OperationMix.parse("findById=2,create=1");
+
+        assertThatThrownBy(() -> mix.pick(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.ecosystem.alpha.loadtest;
+
+import com.ecosystem.alpha.model.User;
+import com.ecosystem.common.dto.UserDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Issues user API requests over HTTP against a running {@code AlphaApplication}. Reads and updates target
+ * the seeded users; deletes consume users created during the run so the seeded set stays intact, and
+ * fall back to an unknown id (expecting 404) until one is available.
+ */
+final class UserApiDriver {
+
+    private static final String USERS_PATH = "/api/v1/users";
+    private static final long UNKNOWN_ID = Long.MAX_VALUE;
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final ObjectMapper objectMapper;
+    private final List<User> seededUsers;
+    private final Duration requestTimeout;
+    private final ConcurrentLinkedQueue<Long> createdIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong createSequence = new AtomicLong();
+
+    UserApiDriver(URI baseUri, ObjectMapper objectMapper, List<User> seededUsers, Duration requestTimeout) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(requestTimeout).build();
+        this.baseUri = baseUri;
+        this.objectMapper = objectMapper;
+        this.seededUsers = seededUsers;
+        this.requestTimeout = requestTimeout;
+    }
+
+    boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case FIND_BY_ID -> send(request(USERS_PATH + "/" + randomSeededUser().getId()).GET()) == 200;
+            case FIND_ALL -> send(request(USERS_PATH).GET()) == 200;
+            case CREATE -> create();
+            case UPDATE -> update();
+            case DELETE -> delete();
+        };
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        String name = "load-" + createSequence.incrementAndGet();
+        UserDto dto = new UserDto(null, name, name + "@example.com", "Load User", null, null);
+        HttpResponse<String> response = httpClient.send(
+                request(USERS_PATH).POST(json(dto)).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        createdIds.add(objectMapper.readTree(response.body()).path("data").path("id").asLong());
+        return true;
+    }
+
+    private boolean update() throws IOException, InterruptedException {
+        User user = randomSeededUser();
+        UserDto dto = new UserDto(null, user.getUsername(), user.getEmail(),
+                "Updated " + ThreadLocalRandom.current().nextInt(), null, null);
+        return send(request(USERS_PATH + "/" + user.getId()).PUT(json(dto))) == 200;
+    }
+
+    private boolean delete() throws IOException, InterruptedException {
+        Long id = createdIds.poll();
+        if (id == null) {
+            return send(request(USERS_PATH + "/" + UNKNOWN_ID).DELETE()) == 404;
+        }
+        return send(request(USERS_PATH + "/" + id).DELETE()) == 204;
+    }
+
+    private User randomSeededUser() {
+        return seededUsers.get(ThreadLocalRandom.current().nextInt(seededUsers.size()));
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json");
+    }
+
+    private HttpRequest.BodyPublisher json(UserDto dto) throws IOException {
+        return HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(dto));
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+}
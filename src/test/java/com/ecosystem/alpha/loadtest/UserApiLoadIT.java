@@ -0,0 +1,62 @@
+package com.ecosystem.alpha.loadtest;
+
+import com.ecosystem.alpha.model.User;
+import com.ecosystem.alpha.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots {@code AlphaApplication} on a random port against seeded H2 data and drives the user API with an
+ * open-model workload. Runs only with {@code mvn -Pload-test verify}; see {@link LoadTestSettings} for the
+ * {@code -Dloadtest.*} overrides. The report is printed and written to {@code target/load-test-report.txt}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class UserApiLoadIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void shouldStayWithinRegressionThresholds_whenDrivenAtConfiguredArrivalRate() throws IOException {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        UserApiDriver driver = new UserApiDriver(URI.create("http://localhost:" + port), objectMapper,
+                seedUsers(settings.seedUsers()), settings.requestTimeout());
+
+        LoadReport report = new OpenModelLoadGenerator(settings, driver::execute).run();
+
+        String formatted = report.format();
+        System.out.print(formatted);
+        Files.writeString(Path.of("target", "load-test-report.txt"), formatted);
+        assertThat(report.thresholdViolations()).isEmpty();
+    }
+
+    private List<User> seedUsers(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUsername("seed-" + i);
+            user.setEmail("seed-" + i + "@example.com");
+            user.setFullName("Seed User " + i);
+            users.add(user);
+        }
+        return List.copyOf(userRepository.saveAll(users));
+    }
+}
@@ -18,6 +18,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -73,6 +74,24 @@ class UserServiceTest {
                 .hasMessageContaining("99");
     }
 
+    @Test
+    void shouldReturnNotFoundResult_whenLookupCalledWithUnknownId() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        UserResult<UserDto> result = userService.lookup(99L);
+
+        assertThat(result).isEqualTo(UserResult.notFound(99L));
+        assertThat(((UserResult.NotFound<UserDto>) result).message()).isEqualTo("User not found with id: 99");
+    }
+
+    @Test
+    void shouldThrowExceptionWithoutStackTrace_whenFindByIdCalledWithUnknownId() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> userService.findById(99L))
+                .satisfies(ex -> assertThat(ex.getStackTrace()).isEmpty());
+    }
+
     @Test
     void shouldCreateUser_whenCreateCalledWithNonDuplicateData() {
         UserDto dto = new UserDto(null, "newuser", "new@example.com", "New User", null, null);
@@ -107,6 +126,17 @@ class UserServiceTest {
                 .hasMessageContaining("jdoe@example.com");
     }
 
+    @Test
+    void shouldReturnConflictResult_whenTryCreateCalledWithDuplicateUsername() {
+        UserDto dto = new UserDto(null, "jdoe", "other@example.com", "Other User", null, null);
+        when(userRepository.existsByUsername("jdoe")).thenReturn(true);
+
+        UserResult<UserDto> result = userService.tryCreate(dto);
+
+        assertThat(result).isEqualTo(UserResult.conflict("Username", "jdoe"));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
     @Test
     void shouldUpdateUser_whenUpdateCalledWithExistingId() {
         UserDto dto = new UserDto(null, "jdoe_updated", "jdoe_new@example.com", "John Updated", null, null);
@@ -129,6 +159,15 @@ class UserServiceTest {
                 .hasMessageContaining("99");
     }
 
+    @Test
+    void shouldReturnNotFoundResult_whenTryUpdateCalledWithUnknownId() {
+        UserDto dto = new UserDto(null, "x", "x@example.com", "X", null, null);
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        assertThat(userService.tryUpdate(99L, dto)).isEqualTo(UserResult.notFound(99L));
+        verify(userRepository, never()).save(any(User.class));
+    }
+
     @Test
     void shouldDeleteUser_whenDeleteCalledWithExistingId() {
         when(userRepository.existsById(1L)).thenReturn(true);
@@ -146,4 +185,12 @@ class UserServiceTest {
                 .isInstanceOf(NotFoundException.class)
                 .hasMessageContaining("99");
     }
+
+    @Test
+    void shouldReturnNotFoundResult_whenTryDeleteCalledWithUnknownId() {
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        assertThat(userService.tryDelete(99L)).isEqualTo(UserResult.notFound(99L));
+        verify(userRepository, never()).deleteById(99L);
+    }
 }